@@ -0,0 +1,51 @@
+package uk.hpkns.minesweeper;
+
+public interface CellScanner {
+
+    /*
+     * Whole-board operations over a flat, row-major buffer of cells. These are used by the Grid in place of looping
+     * over every cell through the bounds-checked accessors.
+     */
+
+    String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * Is the Vector API available in this JVM? It is only present when started with
+     * {@code --add-modules jdk.incubator.vector}.
+     * @return True if the vector scanner can be used
+     */
+    static boolean isVectorAvailable() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+
+    /**
+     * Create the fastest scanner available, falling back to scalar code without the Vector API.
+     * @return The scanner.
+     */
+    static CellScanner create() {
+        if (isVectorAvailable())
+            return new VectorCellScanner();
+        return new ScalarCellScanner();
+    }
+
+    /**
+     * Uncover every mine.
+     * @param cells The cells
+     */
+    void uncoverMines(byte[] cells);
+
+    /**
+     * Check if all non-mines are uncovered.
+     * @param cells The cells
+     * @return True if every cell is either a mine or uncovered
+     */
+    boolean allUncovered(byte[] cells);
+
+    /**
+     * Fill in the number of neighbouring mines for every cell that isn't a mine. Cells must only contain mines.
+     * @param cells The cells
+     * @param width The grid width
+     * @param height The grid height
+     */
+    void countNeighbours(byte[] cells, int width, int height);
+}
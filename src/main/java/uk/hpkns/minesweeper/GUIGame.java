@@ -1,9 +1,12 @@
 package uk.hpkns.minesweeper;
 
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
@@ -12,6 +15,7 @@ import javafx.scene.text.Font;
 import javafx.stage.Stage;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.util.Objects;
@@ -25,8 +29,17 @@ public class GUIGame extends Application {
     public static final URL MINE = Objects.requireNonNull(GUIGame.class.getResource("/mine.png"));
     public static final double BUTTON_SIZE = 32d;
     public static final double ICON_SIZE = 16d;
+    /**
+     * When set, exit as soon as the first interactive frame has been rendered, printing the startup time.
+     */
+    public static final String STARTUP_BENCHMARK = "minesweeper.startupBenchmark";
+    private static volatile long timeToInteractive = -1;
+    private Image flagImage;
+    private Image mineImage;
     private Grid grid;
     Button[][] btnGrid;
+    private Task<Button[][]> boardTask;
+    private boolean interactive;
     private boolean gameOver;
     private long gameStartTime;
 
@@ -54,11 +67,15 @@ public class GUIGame extends Application {
         borderPane.setTop(topRow);
 
         borderPane.setCenter(gridPane);
-        initialiseGrid(gridPane);
 
         stage.setTitle("Minesweeper");
         stage.setScene(scene);
         stage.show();
+
+        // Show the window first, then decode icons and build the board in the background
+        flagImage = new Image(FLAG.toExternalForm(), true);
+        mineImage = new Image(MINE.toExternalForm(), true);
+        initialiseGrid(gridPane);
     }
 
     private void initialiseGrid(GridPane gridPane) {
@@ -66,10 +83,62 @@ public class GUIGame extends Application {
         gameStartTime = 0;
         grid = new Grid(16);
         gridPane.getChildren().clear();
-        btnGrid = new Button[grid.getHeight()][];
-        for (int y = 0; y < grid.getHeight(); y++) {
-            btnGrid[y] = new Button[grid.getWidth()];
-            for (int x = 0; x < grid.getWidth(); x++) {
+        btnGrid = null;
+
+        if (boardTask != null)
+            boardTask.cancel();
+        // The loader mustn't read grid, as a later new game can replace it
+        int width = grid.getWidth();
+        int height = grid.getHeight();
+        Task<Button[][]> task = new Task<>() {
+            @Override
+            protected Button[][] call() {
+                return createButtons(width, height);
+            }
+        };
+        task.setOnSucceeded(e -> {
+            // Ignore boards superseded by a newer game
+            if (task != boardTask) return;
+            btnGrid = task.getValue();
+            for (int y = 0; y < btnGrid.length; y++) {
+                gridPane.addRow(y, btnGrid[y]);
+            }
+            if (!interactive) reportWhenInteractive(gridPane.getScene());
+        });
+        task.setOnFailed(e -> {
+            if (task != boardTask) return;
+            Throwable ex = task.getException();
+            if (Boolean.getBoolean(STARTUP_BENCHMARK)) {
+                // Don't leave training or benchmark runs waiting for a board that will never appear
+                ex.printStackTrace();
+                Platform.exit();
+                return;
+            }
+            Alert alert = new Alert(Alert.AlertType.ERROR);
+            alert.setTitle("Error");
+            alert.setHeaderText("The board couldn't be created.");
+            alert.setContentText(String.valueOf(ex));
+            alert.showAndWait();
+        });
+        boardTask = task;
+
+        Thread loader = new Thread(task, "board-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Create the cell buttons for a board. This is safe to call off the FX application thread, as the buttons
+     * aren't yet part of a live scene.
+     * @param width The board width
+     * @param height The board height
+     * @return The buttons, indexed by [y][x]
+     */
+    private Button[][] createButtons(int width, int height) {
+        Button[][] buttons = new Button[height][];
+        for (int y = 0; y < height; y++) {
+            buttons[y] = new Button[width];
+            for (int x = 0; x < width; x++) {
                 Button btn = new Button();
                 btn.setMinWidth(BUTTON_SIZE);
                 btn.setMinHeight(BUTTON_SIZE);
@@ -82,10 +151,32 @@ public class GUIGame extends Application {
                     grid.flag(finalX, finalY);
                     updateButtonGrid();
                 });
-                gridPane.add(btn, x, y);
-                btnGrid[y][x] = btn;
+                buttons[y][x] = btn;
             }
         }
+        return buttons;
+    }
+
+    /**
+     * Record the time from JVM start until the first frame with a playable board has been laid out.
+     * @param scene The scene containing the board
+     */
+    private void reportWhenInteractive(Scene scene) {
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                if (interactive) return;
+                interactive = true;
+                timeToInteractive = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+                // Listeners can't be removed while the pulse is iterating them
+                Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+
+                if (Boolean.getBoolean(STARTUP_BENCHMARK)) {
+                    System.out.printf("Time to first interactive frame: %d ms%n", timeToInteractive);
+                    Platform.exit();
+                }
+            }
+        });
     }
 
     private void buttonAction(final int finalX, final int finalY) {
@@ -153,18 +244,12 @@ public class GUIGame extends Application {
                 btnGrid[y][x].setGraphic(null);
                 if (grid.isFlagged(x, y)) {
                     // Render a flag
-                    ImageView img = new ImageView(FLAG.toExternalForm());
-                    img.setFitWidth(ICON_SIZE);
-                    img.setFitHeight(ICON_SIZE);
-                    btnGrid[y][x].setGraphic(img);
+                    btnGrid[y][x].setGraphic(createIcon(flagImage));
                 } else if (!grid.isUncovered(x, y)) {
                     // Do nothing if it's covered still
                 } else  if (grid.isMine(x, y)) {
                     // Only for uncovered mines on game loss.
-                    ImageView img = new ImageView(MINE.toExternalForm());
-                    img.setFitWidth(ICON_SIZE);
-                    img.setFitHeight(ICON_SIZE);
-                    btnGrid[y][x].setGraphic(img);
+                    btnGrid[y][x].setGraphic(createIcon(mineImage));
                 } else {
                     // Show the number of the nearest mine, if needed
                     byte pos = grid.get(x, y);
@@ -177,6 +262,26 @@ public class GUIGame extends Application {
         }
     }
 
+    /**
+     * Create a view of a shared, already decoded icon.
+     * @param image The icon image
+     * @return A view sized for a cell button
+     */
+    private static ImageView createIcon(Image image) {
+        ImageView img = new ImageView(image);
+        img.setFitWidth(ICON_SIZE);
+        img.setFitHeight(ICON_SIZE);
+        return img;
+    }
+
+    /**
+     * Get the time taken from JVM start until the first interactive frame was shown.
+     * @return The time in milliseconds, or -1 if the board hasn't been shown yet.
+     */
+    public static long getTimeToInteractive() {
+        return timeToInteractive;
+    }
+
     public static void startGame() {
         launch();
     }
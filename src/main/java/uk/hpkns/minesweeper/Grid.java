@@ -13,8 +13,12 @@ public class Grid {
     public static final byte MINE      = 0b0001_0000;
     public static final byte NUMBER    = 0b0000_1111;
     public static final Random RANDOM = new Random();
+    private static final CellScanner SCANNER = CellScanner.create();
 
-    private final byte[][] grid;
+    /*
+     * Cells are stored row by row in a flat buffer, so that whole-board scans can process many cells at once.
+     */
+    private final byte[] grid;
     private boolean initialised;
     private final int width;
     private final int height;
@@ -29,10 +33,7 @@ public class Grid {
     }
 
     public Grid(int width, int height, int mines) {
-        this.grid = new byte[height][];
-        for (int i = 0; i < height; i++) {
-            this.grid[i] = new byte[width];
-        }
+        this.grid = new byte[width * height];
         this.initialised = false;
         this.width = width;
         this.height = height;
@@ -57,27 +58,21 @@ public class Grid {
                 y = RANDOM.nextInt(height);
             } while (x == safeX && y == safeY);
 
-            grid[y][x] = MINE;
+            grid[index(x, y)] = MINE;
         }
 
         // Fill in numbers
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                if (isMine(x, y)) continue;
-
-                byte number = 0;
-                for (int i = -1; i <= 1; i++) {
-                    for (int j = -1; j <= 1; j++) {
-                        try {
-                            if (isMine(x + i, y + j)) number += 1;
-                        } catch (OutOfGridException e) {
-                            // Ignore, just at edge of grid
-                        }
-                    }
-                }
-                grid[y][x] = number;
-            }
-        }
+        SCANNER.countNeighbours(grid, width, height);
+    }
+
+    /**
+     * Get the index of grid position (x, y) in the flat buffer.
+     * @param x Grid position X
+     * @param y Grid position Y
+     * @return The index.
+     */
+    private int index(int x, int y) {
+        return y * width + x;
     }
 
     /**
@@ -96,9 +91,9 @@ public class Grid {
         if (isUncovered(x, y)) return;
         if (isFlagged(x, y)) return;
 
-        grid[y][x] += UNCOVERED;
+        grid[index(x, y)] += UNCOVERED;
 
-        if ((grid[y][x] & NUMBER) == 0) {
+        if ((grid[index(x, y)] & NUMBER) == 0) {
             // Uncover nearby
             for (int i = -1; i <= 1; i++) {
                 for (int j = -1; j <= 1; j++) {
@@ -130,9 +125,9 @@ public class Grid {
         if (isUncovered(x, y)) return;
 
         if (isFlagged(x, y))
-            grid[y][x] -= FLAGGED;
+            grid[index(x, y)] -= FLAGGED;
         else
-            grid[y][x] += FLAGGED;
+            grid[index(x, y)] += FLAGGED;
     }
 
     /**
@@ -148,7 +143,7 @@ public class Grid {
         if (x < 0 || x >= width) throw new OutOfGridException();
         if (y < 0 || y >= height) throw new OutOfGridException();
 
-        return (grid[y][x] & MINE) == MINE;
+        return (grid[index(x, y)] & MINE) == MINE;
     }
 
     /**
@@ -164,7 +159,7 @@ public class Grid {
         if (x < 0 || x >= width) throw new OutOfGridException();
         if (y < 0 || y >= height) throw new OutOfGridException();
 
-        return (grid[y][x] & UNCOVERED) == UNCOVERED;
+        return (grid[index(x, y)] & UNCOVERED) == UNCOVERED;
     }
 
     /**
@@ -180,19 +175,14 @@ public class Grid {
         if (x < 0 || x >= width) throw new OutOfGridException();
         if (y < 0 || y >= height) throw new OutOfGridException();
 
-        return (grid[y][x] & FLAGGED) == FLAGGED;
+        return (grid[index(x, y)] & FLAGGED) == FLAGGED;
     }
 
     /**
      * Uncover all the mines on the grid
      */
     public void uncoverAllMines() {
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                if (isMine(x, y) && !isUncovered(x, y))
-                    grid[y][x] += UNCOVERED;
-            }
-        }
+        SCANNER.uncoverMines(grid);
     }
 
     /**
@@ -200,13 +190,7 @@ public class Grid {
      * @return True is game is in this complete state
      */
     public boolean allUncovered() {
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                if (!(isMine(x, y) || isUncovered(x, y)))
-                    return false;
-            }
-        }
-        return true;
+        return SCANNER.allUncovered(grid);
     }
 
     /**
@@ -232,7 +216,10 @@ public class Grid {
      * @return The data.
      */
     public byte get(int x, int y) {
-        return grid[y][x];
+        if (x < 0 || x >= width) throw new OutOfGridException();
+        if (y < 0 || y >= height) throw new OutOfGridException();
+
+        return grid[index(x, y)];
     }
 
     /**
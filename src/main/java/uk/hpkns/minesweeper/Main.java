@@ -1,9 +1,13 @@
 package uk.hpkns.minesweeper;
 
+import java.util.Arrays;
+
 public class Main {
 
     public static void main(String[] args) {
-        if (System.getenv().containsKey("TERM")) {
+        // Only touch JavaFX when the GUI is actually wanted
+        boolean forceGui = Arrays.asList(args).contains("--gui");
+        if (!forceGui && System.getenv().containsKey("TERM")) {
             TerminalGame.start(10);
         } else {
             GUIGame.startGame();
@@ -0,0 +1,74 @@
+package uk.hpkns.minesweeper;
+
+import static uk.hpkns.minesweeper.Grid.MINE;
+import static uk.hpkns.minesweeper.Grid.UNCOVERED;
+
+public class ScalarCellScanner implements CellScanner {
+
+    /*
+     * Processes one cell at a time. The range methods are also used for the tails left over by VectorCellScanner.
+     */
+
+    @Override
+    public void uncoverMines(byte[] cells) {
+        uncoverMines(cells, 0, cells.length);
+    }
+
+    @Override
+    public boolean allUncovered(byte[] cells) {
+        return allUncovered(cells, 0, cells.length);
+    }
+
+    @Override
+    public void countNeighbours(byte[] cells, int width, int height) {
+        byte[] columnSums = new byte[width + 2];
+        for (int y = 0; y < height; y++) {
+            sumColumns(cells, width, height, y, 0, width, columnSums);
+            countRow(cells, width, y, 0, width, columnSums);
+        }
+    }
+
+    static void uncoverMines(byte[] cells, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if ((cells[i] & MINE) == MINE)
+                cells[i] |= UNCOVERED;
+        }
+    }
+
+    static boolean allUncovered(byte[] cells, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if ((cells[i] & (MINE | UNCOVERED)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Sum the mines in the rows above, at and below y for columns [from, to). Sums are stored offset by one, so that
+     * columnSums[0] and columnSums[width + 1] stay zero either side of the grid.
+     */
+    static void sumColumns(byte[] cells, int width, int height, int y, int from, int to, byte[] columnSums) {
+        int row = y * width;
+        for (int x = from; x < to; x++) {
+            int sum = mineBit(cells[row + x]);
+            if (y > 0) sum += mineBit(cells[row - width + x]);
+            if (y < height - 1) sum += mineBit(cells[row + width + x]);
+            columnSums[x + 1] = (byte) sum;
+        }
+    }
+
+    /**
+     * Fill in the numbers for columns [from, to) of row y by adding the column sums either side of each cell.
+     */
+    static void countRow(byte[] cells, int width, int y, int from, int to, byte[] columnSums) {
+        int row = y * width;
+        for (int x = from; x < to; x++) {
+            if ((cells[row + x] & MINE) == MINE) continue;
+            cells[row + x] = (byte) (columnSums[x] + columnSums[x + 1] + columnSums[x + 2]);
+        }
+    }
+
+    private static int mineBit(byte cell) {
+        return (cell & MINE) >>> 4;
+    }
+}
@@ -0,0 +1,80 @@
+package uk.hpkns.minesweeper;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static uk.hpkns.minesweeper.Grid.MINE;
+import static uk.hpkns.minesweeper.Grid.UNCOVERED;
+
+public class VectorCellScanner implements CellScanner {
+
+    /*
+     * Processes as many cells per instruction as the hardware allows using the Vector API. This class must only be
+     * loaded when CellScanner.isVectorAvailable() is true. Tails shorter than a vector are left to ScalarCellScanner.
+     */
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    @Override
+    public void uncoverMines(byte[] cells) {
+        int bound = SPECIES.loopBound(cells.length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            ByteVector cell = ByteVector.fromArray(SPECIES, cells, i);
+            cell.lanewise(VectorOperators.OR, UNCOVERED, isMine(cell)).intoArray(cells, i);
+        }
+        ScalarCellScanner.uncoverMines(cells, i, cells.length);
+    }
+
+    @Override
+    public boolean allUncovered(byte[] cells) {
+        int bound = SPECIES.loopBound(cells.length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            ByteVector cell = ByteVector.fromArray(SPECIES, cells, i);
+            if (cell.and((byte) (MINE | UNCOVERED)).compare(VectorOperators.EQ, 0).anyTrue())
+                return false;
+        }
+        return ScalarCellScanner.allUncovered(cells, i, cells.length);
+    }
+
+    @Override
+    public void countNeighbours(byte[] cells, int width, int height) {
+        byte[] columnSums = new byte[width + 2];
+        int bound = SPECIES.loopBound(width);
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+
+            // Vertical pass: add the mines in the rows above and below
+            int x = 0;
+            for (; x < bound; x += SPECIES.length()) {
+                ByteVector sum = mineBits(cells, row + x);
+                if (y > 0) sum = sum.add(mineBits(cells, row - width + x));
+                if (y < height - 1) sum = sum.add(mineBits(cells, row + width + x));
+                sum.intoArray(columnSums, x + 1);
+            }
+            ScalarCellScanner.sumColumns(cells, width, height, y, x, width, columnSums);
+
+            // Horizontal pass: add the column sums shifted left and right, keeping mines as they are
+            x = 0;
+            for (; x < bound; x += SPECIES.length()) {
+                ByteVector count = ByteVector.fromArray(SPECIES, columnSums, x)
+                        .add(ByteVector.fromArray(SPECIES, columnSums, x + 1))
+                        .add(ByteVector.fromArray(SPECIES, columnSums, x + 2));
+                ByteVector cell = ByteVector.fromArray(SPECIES, cells, row + x);
+                count.blend(cell, isMine(cell)).intoArray(cells, row + x);
+            }
+            ScalarCellScanner.countRow(cells, width, y, x, width, columnSums);
+        }
+    }
+
+    private static VectorMask<Byte> isMine(ByteVector cell) {
+        return cell.and(MINE).compare(VectorOperators.NE, 0);
+    }
+
+    private static ByteVector mineBits(byte[] cells, int offset) {
+        return ByteVector.fromArray(SPECIES, cells, offset).and(MINE).lanewise(VectorOperators.LSHR, 4);
+    }
+}
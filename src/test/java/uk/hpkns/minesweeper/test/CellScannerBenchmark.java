@@ -0,0 +1,86 @@
+package uk.hpkns.minesweeper.test;
+
+import org.junit.jupiter.api.Test;
+import uk.hpkns.minesweeper.CellScanner;
+import uk.hpkns.minesweeper.Grid;
+import uk.hpkns.minesweeper.ScalarCellScanner;
+import uk.hpkns.minesweeper.VectorCellScanner;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares the scalar and vector scanners on large boards. Not run by default, run with `mvn -Pscanner-benchmark test`.
+ */
+public class CellScannerBenchmark {
+
+    private static final int[] SIZES = {256, 1024, 4096};
+    private static final int WARMUP = 20;
+    private static final int WARMUP_CELLS = 1 << 26;
+    private static final int ITERATIONS = 50;
+
+    private interface Operation {
+        void run(CellScanner scanner, byte[] cells, int size);
+    }
+
+    private static byte[] randomMines(int size) {
+        Random random = new Random(1);
+        byte[] cells = new byte[size * size];
+        for (int i = 0; i < cells.length; i++) {
+            if (random.nextInt(10) == 0)
+                cells[i] = Grid.MINE;
+        }
+        return cells;
+    }
+
+    /**
+     * Time an operation, returning the mean nanoseconds per cell.
+     */
+    private static double time(CellScanner scanner, byte[] board, int size, Operation operation) {
+        byte[] cells = board.clone();
+        // Small boards need more iterations before the JIT has compiled everything
+        int warmup = Math.max(WARMUP, WARMUP_CELLS / board.length);
+        for (int i = 0; i < warmup; i++) {
+            System.arraycopy(board, 0, cells, 0, board.length);
+            operation.run(scanner, cells, size);
+        }
+        long total = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            System.arraycopy(board, 0, cells, 0, board.length);
+            long start = System.nanoTime();
+            operation.run(scanner, cells, size);
+            total += System.nanoTime() - start;
+        }
+        return (double) total / ITERATIONS / board.length;
+    }
+
+    private static void compare(String name, Operation operation, boolean numbered) {
+        CellScanner scalar = new ScalarCellScanner();
+        CellScanner vector = new VectorCellScanner();
+        for (int size : SIZES) {
+            byte[] board = randomMines(size);
+            if (numbered) {
+                scalar.countNeighbours(board, size, size);
+                // Uncover every number so that completion checks scan the whole board
+                for (int i = 0; i < board.length; i++) {
+                    if ((board[i] & Grid.MINE) == 0) board[i] |= Grid.UNCOVERED;
+                }
+            }
+            double scalarTime = time(scalar, board, size, operation);
+            double vectorTime = time(vector, board, size, operation);
+            System.out.printf("%-16s %5dx%-5d scalar %.3f ns/cell, vector %.3f ns/cell (%.1fx)%n",
+                    name, size, size, scalarTime, vectorTime, scalarTime / vectorTime);
+        }
+    }
+
+    @Test
+    public void benchmarkScanners() {
+        assumeTrue(CellScanner.isVectorAvailable(), "vector API is available");
+
+        compare("countNeighbours", (scanner, cells, size) -> scanner.countNeighbours(cells, size, size), false);
+        compare("uncoverMines", (scanner, cells, size) -> scanner.uncoverMines(cells), true);
+        compare("allUncovered", (scanner, cells, size) -> assertTrue(scanner.allUncovered(cells)), true);
+    }
+}
@@ -0,0 +1,124 @@
+package uk.hpkns.minesweeper.test;
+
+import org.junit.jupiter.api.Test;
+import uk.hpkns.minesweeper.CellScanner;
+import uk.hpkns.minesweeper.Grid;
+import uk.hpkns.minesweeper.ScalarCellScanner;
+import uk.hpkns.minesweeper.VectorCellScanner;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class CellScannerTest {
+
+    // Odd sizes leave a scalar tail after the vector loops
+    private static final int[][] SIZES = {{1, 1}, {5, 3}, {16, 16}, {67, 45}, {300, 7}};
+
+    private static byte[] randomMines(int width, int height, long seed) {
+        Random random = new Random(seed);
+        byte[] cells = new byte[width * height];
+        for (int i = 0; i < cells.length; i++) {
+            if (random.nextInt(5) == 0)
+                cells[i] = Grid.MINE;
+        }
+        return cells;
+    }
+
+    private static boolean isMine(byte[] cells, int width, int height, int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) return false;
+        return (cells[y * width + x] & Grid.MINE) == Grid.MINE;
+    }
+
+    @Test
+    public void testScalarCountsNeighbours() {
+        for (int[] size : SIZES) {
+            int width = size[0];
+            int height = size[1];
+            byte[] mines = randomMines(width, height, 42);
+            byte[] cells = mines.clone();
+            new ScalarCellScanner().countNeighbours(cells, width, height);
+
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    if (isMine(mines, width, height, x, y)) {
+                        assertEquals(Grid.MINE, cells[y * width + x], "mine is kept");
+                        continue;
+                    }
+                    int number = 0;
+                    for (int i = -1; i <= 1; i++) {
+                        for (int j = -1; j <= 1; j++) {
+                            if (isMine(mines, width, height, x + i, y + j)) number += 1;
+                        }
+                    }
+                    assertEquals(number, cells[y * width + x], "correct neighbour count");
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testScalarUncoverMines() {
+        byte[] cells = {Grid.MINE, 1, Grid.MINE | Grid.FLAGGED, Grid.UNCOVERED | 2};
+        new ScalarCellScanner().uncoverMines(cells);
+        assertArrayEquals(new byte[]{Grid.MINE | Grid.UNCOVERED, 1, Grid.MINE | Grid.FLAGGED | Grid.UNCOVERED,
+                Grid.UNCOVERED | 2}, cells, "only mines are uncovered");
+    }
+
+    @Test
+    public void testScalarAllUncovered() {
+        CellScanner scanner = new ScalarCellScanner();
+        assertTrue(scanner.allUncovered(new byte[]{Grid.MINE, Grid.UNCOVERED | 1}), "everything is uncovered");
+        assertFalse(scanner.allUncovered(new byte[]{Grid.MINE, Grid.UNCOVERED | 1, 1}), "a number is covered");
+    }
+
+    @Test
+    public void testVectorAllUncovered() {
+        assumeTrue(CellScanner.isVectorAvailable(), "vector API is available");
+        CellScanner vector = new VectorCellScanner();
+
+        // Large enough to fill several vectors on any hardware
+        byte[] cells = new byte[4096];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = i % 7 == 0 ? Grid.MINE : Grid.UNCOVERED | 1;
+        }
+        assertTrue(vector.allUncovered(cells), "everything is uncovered");
+
+        // Covered number inside the first vector
+        cells[0] = 1;
+        assertFalse(vector.allUncovered(cells), "a number is covered");
+    }
+
+    @Test
+    public void testVectorMatchesScalar() {
+        assumeTrue(CellScanner.isVectorAvailable(), "vector API is available");
+        CellScanner scalar = new ScalarCellScanner();
+        CellScanner vector = new VectorCellScanner();
+
+        for (int[] size : SIZES) {
+            int width = size[0];
+            int height = size[1];
+            byte[] scalarCells = randomMines(width, height, 7);
+            byte[] vectorCells = scalarCells.clone();
+
+            scalar.countNeighbours(scalarCells, width, height);
+            vector.countNeighbours(vectorCells, width, height);
+            assertArrayEquals(scalarCells, vectorCells, "same neighbour counts");
+
+            assertEquals(scalar.allUncovered(scalarCells), vector.allUncovered(vectorCells), "same completion state");
+
+            // Uncover every number, leaving one covered at the end of the board, then compare again
+            for (int i = 0; i < scalarCells.length; i++) {
+                if ((scalarCells[i] & Grid.MINE) == 0) scalarCells[i] |= Grid.UNCOVERED;
+            }
+            scalarCells[scalarCells.length - 1] = 0;
+            System.arraycopy(scalarCells, 0, vectorCells, 0, scalarCells.length);
+            assertEquals(scalar.allUncovered(scalarCells), vector.allUncovered(vectorCells), "same completion state");
+
+            scalar.uncoverMines(scalarCells);
+            vector.uncoverMines(vectorCells);
+            assertArrayEquals(scalarCells, vectorCells, "same mines uncovered");
+        }
+    }
+}
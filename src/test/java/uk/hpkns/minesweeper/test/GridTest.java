@@ -128,4 +128,14 @@ public class GridTest {
         assertTrue((Grid.UNCOVERED & grid.get(0, 0)) == Grid.UNCOVERED,
                 "cell 0, 0 should be uncovered");
     }
+
+    @Test
+    public void testGetOutOfGridBoundsThrows() {
+        Grid grid = new Grid(5);
+        grid.uncover(0, 0); // To initialise
+        assertThrows(Grid.OutOfGridException.class, () -> grid.get(5, 0), "throws on x overflow");
+        assertThrows(Grid.OutOfGridException.class, () -> grid.get(0, 5), "throws on y overflow");
+        assertThrows(Grid.OutOfGridException.class, () -> grid.get(-1, 1), "throws on x underflow");
+        assertThrows(Grid.OutOfGridException.class, () -> grid.get(0, -1), "throws on y underflow");
+    }
 }